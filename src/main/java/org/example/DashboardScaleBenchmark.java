@@ -0,0 +1,797 @@
+package org.example;
+
+import com.relevantcodes.extentreports.ExtentReports;
+import com.relevantcodes.extentreports.ExtentTest;
+import com.relevantcodes.extentreports.LogStatus;
+import org.openqa.selenium.*;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark de montée en charge du dashboard : chaque palier crée N paquets de M cartes, puis mesure
+ * le premier rendu, la fluidité du défilement, la latence de la recherche et la suppression d'un paquet.
+ *
+ * Les paliers viennent du premier argument ou de -Dmemoria.bench.scales (ex. "1x3,5x3,50x3,200x3").
+ * Les paliers d'au plus -Dmemoria.bench.uiSeedMaxDecks paquets sont créés via l'interface, les autres
+ * via l'API du backend (-Dmemoria.api.url, -Dmemoria.api.decksPath, -Dmemoria.api.cardsPath).
+ * Chaque mesure est répétée -Dmemoria.bench.samples fois et la médiane est retenue. Les résultats vont
+ * dans le rapport HTML et dans test-output/benchmarks/DashboardScale_*.json ; le processus se termine
+ * avec le code 1 si un palier échoue ou si une métrique croît plus vite que -Dmemoria.bench.maxExponent.
+ */
+public class DashboardScaleBenchmark {
+    private static WebDriver driver;
+    private static WebDriverWait wait;
+    private static ExtentReports extent;
+    private static final String BASE_URL = System.getProperty("memoria.baseUrl", "http://localhost:4200");
+    private static final String API_URL = System.getProperty("memoria.api.url", "http://localhost:8080/api");
+    private static final String DECKS_PATH = System.getProperty("memoria.api.decksPath", "/decks");
+    private static final String CARDS_PATH = System.getProperty("memoria.api.cardsPath", "/decks/{deckId}/flashcards");
+    private static final String TOKEN_KEY = System.getProperty("memoria.api.tokenKey", "token");
+    private static final int UI_SEED_MAX_DECKS = Integer.getInteger("memoria.bench.uiSeedMaxDecks", 5);
+    private static final int SAMPLES = Math.max(1, Integer.getInteger("memoria.bench.samples", 5));
+    private static final double MAX_EXPONENT = Double.parseDouble(
+            System.getProperty("memoria.bench.maxExponent", "1.5"));
+    private static final long TIMEOUT_MS = 30_000;
+    private static final double FRAME_BUDGET_MS = 1000.0 / 60;
+    private static final String DECK_CARD = ".deck-card:not(.create-card)";
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*\"?([\\w-]+)\"?");
+    private static final HttpClient HTTP = HttpClient.newHttpClient();
+
+    // Injecté avant chaque chargement de page : note l'apparition de la barre de recherche
+    // et l'instant où chaque nombre de paquets est atteint, dans la même navigation
+    private static final String CARD_TRACKER_SCRIPT =
+            "window.__benchCardsAt = {};" +
+            "window.__benchShellAt = -1;" +
+            "new MutationObserver(function () {" +
+            "  var now = performance.now();" +
+            "  if (window.__benchShellAt < 0 && document.querySelector('.search-bar input')) {" +
+            "    window.__benchShellAt = now;" +
+            "  }" +
+            "  var n = document.querySelectorAll('" + DECK_CARD + "').length;" +
+            "  if (!(n in window.__benchCardsAt)) { window.__benchCardsAt[n] = now; }" +
+            "}).observe(document, {childList: true, subtree: true});";
+
+    // Attend N paquets dans le DOM ; renvoie [apparition des paquets, nombre, apparition de la barre de recherche]
+    private static final String RENDER_SCRIPT =
+            "var expected = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];" +
+            "(function poll() {" +
+            "  var n = document.querySelectorAll('" + DECK_CARD + "').length;" +
+            "  if (n >= expected) {" +
+            "    var seen = window.__benchCardsAt || {}, at = performance.now();" +
+            "    Object.keys(seen).forEach(function (k) { if (+k >= expected) { at = Math.min(at, seen[k]); } });" +
+            "    done([at, n, window.__benchShellAt === undefined ? -1 : window.__benchShellAt]);" +
+            "  }" +
+            "  else if (performance.now() > timeout) { done([-1, n, -1]); }" +
+            "  else { requestAnimationFrame(poll); }" +
+            "})();";
+
+    // Saisie dans la barre de recherche ; renvoie le délai jusqu'à ce que la grille ait changé
+    // et affiche le nombre attendu de paquets
+    private static final String SEARCH_SCRIPT =
+            "var query = arguments[0], expected = arguments[1], timeout = arguments[2]," +
+            "    done = arguments[arguments.length - 1];" +
+            "var input = document.querySelector('.search-bar input');" +
+            "var card = document.querySelector('" + DECK_CARD + "');" +
+            "var changed = false;" +
+            "var observer = new MutationObserver(function () { changed = true; });" +
+            "observer.observe(card ? card.parentElement : document.body, {childList: true, subtree: true," +
+            "    attributes: true, attributeFilter: ['class', 'style', 'hidden']});" +
+            "function visible() {" +
+            "  return Array.prototype.filter.call(document.querySelectorAll('" + DECK_CARD + "')," +
+            "      function (e) { return e.offsetParent !== null; }).length;" +
+            "}" +
+            "function finish(result) { observer.disconnect(); done(result); }" +
+            "var start = performance.now();" +
+            "input.value = query;" +
+            "input.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "input.dispatchEvent(new KeyboardEvent('keyup', {bubbles: true, key: query.slice(-1)}));" +
+            "requestAnimationFrame(function poll() {" +
+            "  var elapsed = performance.now() - start;" +
+            "  if (changed && visible() === expected) { finish(elapsed); }" +
+            "  else if (elapsed > timeout) { finish(-1); }" +
+            "  else { requestAnimationFrame(poll); }" +
+            "});";
+
+    // Clique sur le bouton de suppression ; renvoie le délai jusqu'à ce que la carte du paquet disparaisse
+    private static final String DELETE_SCRIPT =
+            "var button = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];" +
+            "var card = button.closest('.deck-card'), start, finished = false;" +
+            "function gone() { return !card.isConnected || card.offsetParent === null; }" +
+            "function finish(result) { if (!finished) { finished = true; observer.disconnect(); done(result); } }" +
+            "var observer = new MutationObserver(function () { if (gone()) { finish(performance.now() - start); } });" +
+            "observer.observe(document.body, {childList: true, subtree: true," +
+            "    attributes: true, attributeFilter: ['class', 'style', 'hidden']});" +
+            "start = performance.now();" +
+            "button.click();" +
+            "(function poll() {" +
+            "  if (performance.now() - start > timeout) { finish(-1); }" +
+            "  else if (!finished) { requestAnimationFrame(poll); }" +
+            "})();";
+
+    // Défile la grille jusqu'en bas, une demi-page par frame ;
+    // renvoie [durée, frames, pire frame, frame p95, frames au-delà du budget]
+    private static final String SCROLL_SCRIPT =
+            "var budget = arguments[0], done = arguments[arguments.length - 1];" +
+            "var card = document.querySelector('" + DECK_CARD + "');" +
+            "var el = card ? card.parentElement : null;" +
+            "while (el && !(el.scrollHeight > el.clientHeight &&" +
+            "    /(auto|scroll)/.test(getComputedStyle(el).overflowY))) { el = el.parentElement; }" +
+            "var scroller = el || document.scrollingElement;" +
+            "scroller.scrollTop = 0;" +
+            "var step = Math.max(1, Math.floor(scroller.clientHeight / 2));" +
+            "var start = performance.now(), last = -1, deltas = [];" +
+            "requestAnimationFrame(function tick(now) {" +
+            "  if (last >= 0) { deltas.push(now - last); }" +
+            "  last = now;" +
+            "  var max = scroller.scrollHeight - scroller.clientHeight;" +
+            "  if (scroller.scrollTop >= max - 1) {" +
+            "    deltas.sort(function (a, b) { return a - b; });" +
+            "    var count = deltas.length;" +
+            "    done([performance.now() - start, count, count ? deltas[count - 1] : -1," +
+            "        count ? deltas[Math.min(count - 1, Math.floor(count * 0.95))] : -1," +
+            "        deltas.filter(function (d) { return d > budget; }).length]);" +
+            "    return;" +
+            "  }" +
+            "  scroller.scrollTop = Math.min(max, scroller.scrollTop + step);" +
+            "  requestAnimationFrame(tick);" +
+            "});";
+
+    private record ScaleStep(int decks, int cardsPerDeck) {
+        String label() {
+            return decks + "x" + cardsPerDeck;
+        }
+    }
+
+    // Métriques ajustées et contrôlées en fonction du nombre de paquets : tableau, courbe, exposants et JSON
+    private enum Metric {
+        FIRST_RENDER("firstRenderMs", "First render (ms)", "#1f77b4", r -> r.firstRenderMs),
+        SCROLL_P95_FRAME("scrollP95FrameMs", "Scroll p95 frame (ms)", "#9467bd", r -> r.scrollP95FrameMs),
+        SEARCH_KEYSTROKE("searchKeystrokeMs", "Search (ms)", "#ff7f0e", r -> r.searchKeystrokeMs),
+        DELETE_DECK("deleteDeckMs", "Delete (ms)", "#2ca02c", r -> r.deleteDeckMs);
+
+        final String key;
+        final String label;
+        final String color;
+        final ToDoubleFunction<StepResult> value;
+
+        Metric(String key, String label, String color, ToDoubleFunction<StepResult> value) {
+            this.key = key;
+            this.label = label;
+            this.color = color;
+            this.value = value;
+        }
+    }
+
+    // Médianes des échantillons ; NaN quand la mesure n'a pas été faite
+    private static final class StepResult {
+        final ScaleStep step;
+        String seedMode;
+        double seedMs = Double.NaN;
+        double firstRenderMs = Double.NaN;
+        double firstRenderFromNavigationMs = Double.NaN;
+        double scrollMs = Double.NaN;
+        double scrollFrames = Double.NaN;
+        double scrollWorstFrameMs = Double.NaN;
+        double scrollP95FrameMs = Double.NaN;
+        double scrollJankFrames = Double.NaN;
+        double searchKeystrokeMs = Double.NaN;
+        double searchClearMs = Double.NaN;
+        double deleteDeckMs = Double.NaN;
+        String error;
+
+        StepResult(ScaleStep step) {
+            this.step = step;
+        }
+    }
+
+    public static void main(String[] args) {
+        String scales = args.length > 0 ? args[0] : System.getProperty("memoria.bench.scales", "1x3,5x3,20x3,100x3");
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern(MemoriaSupport.TIMESTAMP_PATTERN));
+        extent = new ExtentReports("test-output/DashboardScaleReport_" + timestamp + ".html", true);
+        extent.addSystemInfo("Test Environment", "Development");
+        extent.addSystemInfo("Application", "Memoria");
+        extent.addSystemInfo("Scale steps", scales);
+        extent.addSystemInfo("Samples per step", String.valueOf(SAMPLES));
+
+        List<ScaleStep> steps = List.of();
+        List<StepResult> results = new ArrayList<>();
+        boolean passed = false;
+        try {
+            steps = parseScales(scales);
+            setupWebDriver();
+            if (registerAndLogin()) {
+                String runPrefix = "Bench " + UUID.randomUUID().toString().substring(0, 6) + " ";
+                for (int i = 0; i < steps.size(); i++) {
+                    results.add(runStep(steps.get(i), runPrefix, runPrefix + "S" + i + " "));
+                }
+            }
+        } catch (Exception e) {
+            MemoriaSupport.handleGlobalException(extent, e);
+        } finally {
+            // Les paliers déjà mesurés sont publiés même si la suite a été interrompue
+            if (!results.isEmpty()) {
+                int fitCards = fitCardsPerDeck(results);
+                Map<Metric, Double> exponents = growthExponents(results, fitCards);
+                passed = results.size() == steps.size()
+                        && results.stream().allMatch(r -> r.error == null)
+                        && exponents.values().stream().noneMatch(exponent -> exponent > MAX_EXPONENT);
+                reportScalingCurve(results, fitCards, exponents, passed);
+                try {
+                    writeResultFile(results, fitCards, exponents, timestamp, passed);
+                } catch (IOException e) {
+                    MemoriaSupport.handleGlobalException(extent, e);
+                }
+            }
+            if (driver != null) {
+                driver.quit();
+            }
+            extent.flush();
+            extent.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static List<ScaleStep> parseScales(String scales) {
+        List<ScaleStep> steps = new ArrayList<>();
+        for (String token : scales.split(",")) {
+            String[] parts = token.trim().toLowerCase(Locale.ROOT).split("x");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid scale step \"" + token + "\", expected <decks>x<cards>");
+            }
+            steps.add(new ScaleStep(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())));
+        }
+        return steps;
+    }
+
+    private static void setupWebDriver() {
+        ChromeDriver chromeDriver = MemoriaSupport.createChromeDriver();
+        chromeDriver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", CARD_TRACKER_SCRIPT));
+        driver = chromeDriver;
+        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        driver.manage().timeouts().scriptTimeout(Duration.ofMillis(TIMEOUT_MS * 2));
+    }
+
+    private static boolean registerAndLogin() {
+        ExtentTest authTest = extent.startTest("Préparation du compte de benchmark");
+        try {
+            String username = "bench_" + UUID.randomUUID().toString().substring(0, 8);
+            String email = username + "@test.com";
+            String password = "Password123456789@";
+            JavascriptExecutor executor = (JavascriptExecutor) driver;
+
+            driver.get(BASE_URL + "/register");
+            wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.USERNAME_INPUT)).sendKeys(username);
+            driver.findElement(MemoriaSupport.EMAIL_INPUT).sendKeys(email);
+            driver.findElement(MemoriaSupport.PASSWORD_INPUT).sendKeys(password);
+            executor.executeScript("arguments[0].click();", driver.findElement(MemoriaSupport.SUBMIT_BUTTON));
+            wait.until(ExpectedConditions.urlContains("/login"));
+
+            wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.EMAIL_INPUT)).sendKeys(email);
+            driver.findElement(MemoriaSupport.PASSWORD_INPUT).sendKeys(password);
+            executor.executeScript("arguments[0].click();", driver.findElement(MemoriaSupport.SUBMIT_BUTTON));
+            wait.until(ExpectedConditions.urlContains("/dashboard"));
+
+            authTest.log(LogStatus.PASS, "Registered and logged in as " + email);
+            return true;
+        } catch (Exception e) {
+            authTest.log(LogStatus.FAIL, "Could not prepare benchmark account: " + e.getMessage());
+            MemoriaSupport.captureScreenshot(driver, authTest, "Bench_Auth_Error");
+            return false;
+        } finally {
+            extent.endTest(authTest);
+        }
+    }
+
+    private static StepResult runStep(ScaleStep step, String runPrefix, String prefix) {
+        ExtentTest stepTest = extent.startTest("Dashboard " + step.label(),
+                step.decks() + " decks x " + step.cardsPerDeck() + " cards, " + SAMPLES + " samples");
+        StepResult result = new StepResult(step);
+        List<String> deckIds = new ArrayList<>();
+        try {
+            JavascriptExecutor executor = (JavascriptExecutor) driver;
+            ensureEmptyDashboard(stepTest, runPrefix);
+
+            long seedStart = System.nanoTime();
+            if (step.decks() <= UI_SEED_MAX_DECKS) {
+                result.seedMode = "ui";
+                for (int i = 0; i < step.decks(); i++) {
+                    String deckName = deckName(prefix, i);
+                    createDeckViaUi(deckName);
+                    addCardsViaUi(deckName, step.cardsPerDeck());
+                }
+            } else {
+                result.seedMode = "api";
+                String token = (String) executor.executeScript("return localStorage.getItem(arguments[0]);", TOKEN_KEY);
+                for (int i = 0; i < step.decks(); i++) {
+                    String deckId = createDeckViaApi(token, deckName(prefix, i));
+                    deckIds.add(deckId);
+                    for (int j = 0; j < step.cardsPerDeck(); j++) {
+                        createCardViaApi(token, deckId, "Q" + j + " " + deckName(prefix, i), "A" + j);
+                    }
+                }
+            }
+            result.seedMs = (System.nanoTime() - seedStart) / 1_000_000.0;
+            stepTest.log(LogStatus.INFO, String.format(Locale.ROOT, "Seeded %d decks x %d cards via %s in %.0f ms",
+                    step.decks(), step.cardsPerDeck(), result.seedMode, result.seedMs));
+
+            // Premier rendu : de la barre de recherche aux N paquets, dans la même navigation
+            List<Double> renders = new ArrayList<>();
+            List<Double> rendersFromNavigation = new ArrayList<>();
+            for (int s = 0; s < SAMPLES; s++) {
+                driver.get(BASE_URL + "/dashboard");
+                List<?> render = (List<?>) executor.executeAsyncScript(RENDER_SCRIPT, step.decks(), TIMEOUT_MS);
+                double cardsAt = number(render.get(0));
+                assertMeasured(cardsAt, "Dashboard did not render " + step.decks() + " decks");
+                long renderedDecks = Math.round(number(render.get(1)));
+                if (renderedDecks != step.decks()) {
+                    throw new IllegalStateException("Dashboard rendered " + renderedDecks + " decks, expected " + step.decks());
+                }
+                double shellAt = number(render.get(2));
+                if (shellAt < 0 || cardsAt < shellAt) {
+                    throw new IllegalStateException("No dashboard search bar rendered before the decks, cannot time first render");
+                }
+                renders.add(cardsAt - shellAt);
+                rendersFromNavigation.add(cardsAt);
+            }
+            result.firstRenderMs = median(renders);
+            result.firstRenderFromNavigationMs = median(rendersFromNavigation);
+            stepTest.log(LogStatus.PASS, String.format(Locale.ROOT,
+                    "First render: %.1f ms after the search bar (%.1f ms since navigation)",
+                    result.firstRenderMs, result.firstRenderFromNavigationMs));
+            MemoriaSupport.captureScreenshot(driver, stepTest, "Bench_Dashboard_" + step.label());
+
+            List<List<Double>> scrolls = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                scrolls.add(new ArrayList<>());
+            }
+            for (int s = 0; s < SAMPLES; s++) {
+                List<?> scroll = (List<?>) executor.executeAsyncScript(SCROLL_SCRIPT, FRAME_BUDGET_MS);
+                for (int i = 0; i < scrolls.size(); i++) {
+                    double value = number(scroll.get(i));
+                    if (value >= 0) {
+                        scrolls.get(i).add(value);
+                    }
+                }
+            }
+            result.scrollMs = median(scrolls.get(0));
+            result.scrollFrames = median(scrolls.get(1));
+            result.scrollWorstFrameMs = median(scrolls.get(2));
+            result.scrollP95FrameMs = median(scrolls.get(3));
+            result.scrollJankFrames = median(scrolls.get(4));
+            stepTest.log(LogStatus.PASS, String.format(Locale.ROOT,
+                    "Scroll: p95 frame %.1f ms, worst frame %.1f ms, %.0f of %.0f frames over budget (%.1f ms total)",
+                    result.scrollP95FrameMs, result.scrollWorstFrameMs, result.scrollJankFrames,
+                    result.scrollFrames, result.scrollMs));
+
+            List<Integer> targets = sampleDecks(step.decks());
+            if (step.decks() > 1) {
+                List<Double> keystrokes = new ArrayList<>();
+                List<Double> clears = new ArrayList<>();
+                for (int s = 0; s < SAMPLES; s++) {
+                    String target = deckName(prefix, targets.get(s % targets.size()));
+                    double keystroke = number(executor.executeAsyncScript(SEARCH_SCRIPT, target, 1, TIMEOUT_MS));
+                    assertMeasured(keystroke, "Search did not narrow the grid to \"" + target + "\"");
+                    double clear = number(executor.executeAsyncScript(SEARCH_SCRIPT, "", step.decks(), TIMEOUT_MS));
+                    assertMeasured(clear, "Clearing the search did not restore " + step.decks() + " decks");
+                    keystrokes.add(keystroke);
+                    clears.add(clear);
+                }
+                result.searchKeystrokeMs = median(keystrokes);
+                result.searchClearMs = median(clears);
+                stepTest.log(LogStatus.PASS, String.format(Locale.ROOT, "Search keystroke: %.1f ms, clear: %.1f ms",
+                        result.searchKeystrokeMs, result.searchClearMs));
+            } else {
+                stepTest.log(LogStatus.INFO, "Search timing skipped: filtering a single deck changes nothing");
+            }
+
+            List<Double> deletions = new ArrayList<>();
+            for (int index : targets) {
+                WebElement deleteButton = wait.until(ExpectedConditions.elementToBeClickable(
+                        MemoriaSupport.deleteDeckButton(deckName(prefix, index))));
+                double deletion = number(executor.executeAsyncScript(DELETE_SCRIPT, deleteButton, TIMEOUT_MS));
+                assertMeasured(deletion, "Deck \"" + deckName(prefix, index) + "\" was not removed");
+                deletions.add(deletion);
+                if (!deckIds.isEmpty()) {
+                    deckIds.set(index, null);
+                }
+            }
+            result.deleteDeckMs = median(deletions);
+            stepTest.log(LogStatus.PASS, String.format(Locale.ROOT, "Deck deletion: %.1f ms over %d decks",
+                    result.deleteDeckMs, deletions.size()));
+
+        } catch (Exception e) {
+            result.error = e.getMessage();
+            stepTest.log(LogStatus.FAIL, "Error in benchmark step " + step.label() + ": " + e.getMessage());
+            MemoriaSupport.captureScreenshot(driver, stepTest, "Bench_Error_" + step.label());
+        } finally {
+            cleanUp(stepTest, prefix, deckIds);
+            extent.endTest(stepTest);
+        }
+        return result;
+    }
+
+    // Jusqu'à SAMPLES paquets distincts, répartis sur toute la grille
+    private static List<Integer> sampleDecks(int decks) {
+        Set<Integer> indexes = new LinkedHashSet<>();
+        for (int s = 0; s < SAMPLES; s++) {
+            indexes.add((int) ((s + 1L) * decks / (SAMPLES + 1)));
+        }
+        return new ArrayList<>(indexes);
+    }
+
+    // Le compte doit être vide avant chaque palier, sinon les paquets restants faussent la courbe
+    private static void ensureEmptyDashboard(ExtentTest test, String runPrefix) throws InterruptedException {
+        driver.get(BASE_URL + "/dashboard");
+        wait.until(ExpectedConditions.presenceOfElementLocated(MemoriaSupport.SEARCH_INPUT));
+        Thread.sleep(1000); // Attente du chargement des paquets existants
+
+        int leftover = driver.findElements(By.cssSelector(DECK_CARD)).size();
+        if (leftover > 0) {
+            test.log(LogStatus.WARNING, leftover + " decks left over from a previous step, removing them");
+            deleteDecksViaUi(runPrefix);
+            driver.navigate().refresh();
+            wait.until(ExpectedConditions.presenceOfElementLocated(MemoriaSupport.SEARCH_INPUT));
+            Thread.sleep(1000);
+            leftover = driver.findElements(By.cssSelector(DECK_CARD)).size();
+            if (leftover > 0) {
+                throw new IllegalStateException(leftover + " decks left on the dashboard before seeding");
+            }
+        }
+    }
+
+    private static String deckName(String prefix, int index) {
+        return prefix + String.format(Locale.ROOT, "D%04d", index);
+    }
+
+    private static void createDeckViaUi(String deckName) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        WebElement createNewDeckCard = wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.CREATE_DECK_CARD));
+        executor.executeScript("arguments[0].click();", createNewDeckCard);
+
+        WebElement modal = wait.until(ExpectedConditions.visibilityOfElementLocated(MemoriaSupport.DECK_MODAL));
+        wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.DECK_NAME_INPUT)).sendKeys(deckName);
+        WebElement createDeckBtn = wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.CREATE_DECK_BUTTON));
+        executor.executeScript("arguments[0].click();", createDeckBtn);
+
+        wait.until(ExpectedConditions.invisibilityOf(modal));
+        wait.until(ExpectedConditions.presenceOfElementLocated(MemoriaSupport.deckTitle(deckName)));
+    }
+
+    private static void addCardsViaUi(String deckName, int count) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        WebElement addCardsButton = wait.until(ExpectedConditions.elementToBeClickable(
+                MemoriaSupport.addCardsButton(deckName)));
+        executor.executeScript("arguments[0].click();", addCardsButton);
+        wait.until(ExpectedConditions.presenceOfElementLocated(MemoriaSupport.ADD_CARD_TITLE));
+
+        for (int i = 0; i < count; i++) {
+            String questionText = "Q" + i + " " + deckName;
+            WebElement questionInput = wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.QUESTION_INPUT));
+            WebElement answerInput = wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.ANSWER_INPUT));
+            questionInput.clear();
+            questionInput.sendKeys(questionText);
+            answerInput.clear();
+            answerInput.sendKeys("A" + i);
+            wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.DIFFICULTY_SELECT)).sendKeys("Facile");
+
+            WebElement addCardButton = wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.ADD_CARD_BUTTON));
+            executor.executeScript("arguments[0].click();", addCardButton);
+            wait.until(ExpectedConditions.presenceOfElementLocated(
+                    By.xpath("//*[contains(text(), '" + questionText + "')]")));
+        }
+
+        WebElement backButton = wait.until(ExpectedConditions.elementToBeClickable(MemoriaSupport.BACK_TO_DECKS_BUTTON));
+        executor.executeScript("arguments[0].click();", backButton);
+        wait.until(ExpectedConditions.presenceOfElementLocated(MemoriaSupport.SEARCH_INPUT));
+    }
+
+    private static void deleteDecksViaUi(String prefix) {
+        By deleteButtons = MemoriaSupport.deleteDeckButton(prefix);
+        List<WebElement> remaining = driver.findElements(deleteButtons);
+        while (!remaining.isEmpty()) {
+            WebElement deleteButton = remaining.get(0);
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", deleteButton);
+            wait.until(ExpectedConditions.stalenessOf(deleteButton));
+            remaining = driver.findElements(deleteButtons);
+        }
+    }
+
+    private static String createDeckViaApi(String token, String deckName) throws IOException, InterruptedException {
+        String body = "{\"name\":\"" + deckName + "\"}";
+        String response = sendApiRequest(token, "POST", API_URL + DECKS_PATH, body);
+        Matcher matcher = ID_PATTERN.matcher(response);
+        if (!matcher.find()) {
+            throw new IOException("No deck id in API response: " + response);
+        }
+        return matcher.group(1);
+    }
+
+    private static void createCardViaApi(String token, String deckId, String question, String answer)
+            throws IOException, InterruptedException {
+        String body = "{\"question\":\"" + question + "\",\"answer\":\"" + answer +
+                "\",\"difficultyLevel\":\"Facile\",\"deckId\":\"" + deckId + "\"}";
+        sendApiRequest(token, "POST", API_URL + CARDS_PATH.replace("{deckId}", deckId), body);
+    }
+
+    private static String sendApiRequest(String token, String method, String url, String body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(TIMEOUT_MS))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = HTTP.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IOException(method + " " + url + " returned HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static void cleanUp(ExtentTest test, String prefix, List<String> deckIds) {
+        if (!deckIds.isEmpty()) {
+            String token = (String) ((JavascriptExecutor) driver)
+                    .executeScript("return localStorage.getItem(arguments[0]);", TOKEN_KEY);
+            int failures = 0;
+            for (String deckId : deckIds) {
+                if (deckId == null) {
+                    continue;
+                }
+                try {
+                    sendApiRequest(token, "DELETE", API_URL + DECKS_PATH + "/" + deckId, null);
+                } catch (Exception e) {
+                    failures++;
+                    test.log(LogStatus.WARNING, "Could not delete deck " + deckId + ": " + e.getMessage());
+                }
+            }
+            test.log(failures == 0 ? LogStatus.INFO : LogStatus.WARNING,
+                    "Benchmark decks removed through the API, " + failures + " failures");
+            return;
+        }
+        try {
+            driver.get(BASE_URL + "/dashboard");
+            wait.until(ExpectedConditions.presenceOfElementLocated(MemoriaSupport.SEARCH_INPUT));
+            deleteDecksViaUi(prefix);
+            test.log(LogStatus.INFO, "Benchmark decks removed");
+        } catch (Exception e) {
+            test.log(LogStatus.WARNING, "Cleanup error: " + e.getMessage());
+        }
+    }
+
+    private static void reportScalingCurve(List<StepResult> results, int fitCards,
+                                           Map<Metric, Double> exponents, boolean passed) {
+        ExtentTest curveTest = extent.startTest("Courbe de montée en charge du Dashboard");
+
+        StringBuilder table = new StringBuilder("<table><tr><th>Decks x cards</th><th>Seed</th>");
+        for (Metric metric : Metric.values()) {
+            table.append("<th>").append(metric.label).append("</th>");
+        }
+        table.append("<th>Scroll total (ms)</th><th>Worst frame (ms)</th></tr>");
+        for (StepResult r : results) {
+            table.append("<tr><td>").append(r.step.label()).append("</td><td>").append(r.seedMode).append("</td>");
+            for (Metric metric : Metric.values()) {
+                table.append("<td>").append(formatMs(metric.value.applyAsDouble(r))).append("</td>");
+            }
+            table.append("<td>").append(formatMs(r.scrollMs)).append("</td><td>")
+                    .append(formatMs(r.scrollWorstFrameMs)).append("</td></tr>");
+        }
+        curveTest.log(LogStatus.INFO, table.append("</table>").toString());
+        curveTest.log(LogStatus.INFO, scalingChart(fitSteps(results, fitCards), fitCards));
+
+        for (Metric metric : Metric.values()) {
+            Double exponent = exponents.get(metric);
+            if (exponent == null) {
+                curveTest.log(LogStatus.INFO, metric.key + ": not enough measured steps at "
+                        + fitCards + " cards per deck to fit a growth exponent");
+            } else if (exponent > MAX_EXPONENT) {
+                curveTest.log(LogStatus.FAIL, String.format(Locale.ROOT,
+                        "%s grows as O(n^%.2f) with deck count, above the %.2f limit", metric.key, exponent, MAX_EXPONENT));
+            } else {
+                curveTest.log(LogStatus.PASS, String.format(Locale.ROOT,
+                        "%s grows as O(n^%.2f) with deck count", metric.key, exponent));
+            }
+        }
+        curveTest.log(passed ? LogStatus.PASS : LogStatus.FAIL,
+                passed ? "Benchmark passed" : "Benchmark failed: a step errored or a metric exceeded its growth limit");
+        extent.endTest(curveTest);
+    }
+
+    // Axe x en échelle logarithmique du nombre de paquets, pour qu'une croissance linéaire reste lisible
+    private static String scalingChart(List<StepResult> results, int fitCards) {
+        int width = 600, height = 260, margin = 40;
+
+        double max = 1, minLogN = Double.MAX_VALUE, maxLogN = -Double.MAX_VALUE;
+        for (StepResult r : results) {
+            minLogN = Math.min(minLogN, Math.log(Math.max(1, r.step.decks())));
+            maxLogN = Math.max(maxLogN, Math.log(Math.max(1, r.step.decks())));
+            for (Metric metric : Metric.values()) {
+                double value = metric.value.applyAsDouble(r);
+                if (!Double.isNaN(value)) {
+                    max = Math.max(max, value);
+                }
+            }
+        }
+        double logRange = maxLogN - minLogN;
+
+        StringBuilder svg = new StringBuilder(String.format(Locale.ROOT,
+                "<svg width='%d' height='%d' style='background:#fff'>" +
+                "<line x1='%d' y1='%d' x2='%d' y2='%d' stroke='#999'/>" +
+                "<line x1='%d' y1='%d' x2='%d' y2='%d' stroke='#999'/>" +
+                "<text x='2' y='%d' font-size='10'>%.0f ms</text>" +
+                "<text x='%d' y='%d' font-size='10'>decks (log), %d cards/deck</text>",
+                width, height, margin, height - margin, width - margin, height - margin,
+                margin, margin, margin, height - margin, margin, max, width - margin - 130, height - 5, fitCards));
+        double[] xs = new double[results.size()];
+        for (int i = 0; i < results.size(); i++) {
+            double logN = Math.log(Math.max(1, results.get(i).step.decks()));
+            xs[i] = logRange > 0
+                    ? margin + (logN - minLogN) / logRange * (width - 2.0 * margin)
+                    : width / 2.0;
+            svg.append(String.format(Locale.ROOT, "<text x='%.0f' y='%d' font-size='10'>%s</text>",
+                    xs[i] - 10, height - margin + 15, results.get(i).step.label()));
+        }
+        int row = 0;
+        for (Metric metric : Metric.values()) {
+            StringBuilder points = new StringBuilder();
+            for (int i = 0; i < results.size(); i++) {
+                double value = metric.value.applyAsDouble(results.get(i));
+                if (!Double.isNaN(value)) {
+                    points.append(String.format(Locale.ROOT, "%.1f,%.1f ", xs[i],
+                            height - margin - value / max * (height - 2.0 * margin)));
+                }
+            }
+            svg.append("<polyline fill='none' stroke-width='2' stroke='").append(metric.color)
+                    .append("' points='").append(points).append("'/>")
+                    .append(String.format(Locale.ROOT, "<text x='%d' y='%d' font-size='11' fill='%s'>%s</text>",
+                            width - 150, 15 + row++ * 14, metric.color, metric.key));
+        }
+        return svg.append("</svg>").toString();
+    }
+
+    // La courbe n'utilise que les paliers d'un même nombre de cartes par paquet : le plus représenté
+    private static int fitCardsPerDeck(List<StepResult> results) {
+        int best = results.get(0).step.cardsPerDeck();
+        long bestCount = 0;
+        for (StepResult r : results) {
+            long count = results.stream().filter(o -> o.step.cardsPerDeck() == r.step.cardsPerDeck()).count();
+            if (count > bestCount) {
+                best = r.step.cardsPerDeck();
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    private static List<StepResult> fitSteps(List<StepResult> results, int fitCards) {
+        return results.stream().filter(r -> r.step.cardsPerDeck() == fitCards).toList();
+    }
+
+    // Exposant k de t ~ n^k : pente des moindres carrés de log(t) en fonction de log(n) sur les paliers mesurés
+    private static Map<Metric, Double> growthExponents(List<StepResult> results, int fitCards) {
+        Map<Metric, Double> exponents = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            List<double[]> points = new ArrayList<>();
+            for (StepResult r : fitSteps(results, fitCards)) {
+                double value = metric.value.applyAsDouble(r);
+                if (r.step.decks() > 0 && value > 0) {
+                    points.add(new double[]{Math.log(r.step.decks()), Math.log(value)});
+                }
+            }
+            double meanX = points.stream().mapToDouble(p -> p[0]).average().orElse(0);
+            double meanY = points.stream().mapToDouble(p -> p[1]).average().orElse(0);
+            double sxx = 0, sxy = 0;
+            for (double[] p : points) {
+                sxx += (p[0] - meanX) * (p[0] - meanX);
+                sxy += (p[0] - meanX) * (p[1] - meanY);
+            }
+            if (sxx > 0) {
+                exponents.put(metric, sxy / sxx);
+            }
+        }
+        return exponents;
+    }
+
+    private static void writeResultFile(List<StepResult> results, int fitCards, Map<Metric, Double> exponents,
+                                        String timestamp, boolean passed) throws IOException {
+        StringBuilder json = new StringBuilder("{\n  \"benchmark\": \"dashboard-scale\",\n")
+                .append("  \"timestamp\": ").append(jsonString(timestamp)).append(",\n")
+                .append("  \"baseUrl\": ").append(jsonString(BASE_URL)).append(",\n")
+                .append("  \"passed\": ").append(passed).append(",\n")
+                .append("  \"samplesPerStep\": ").append(SAMPLES).append(",\n")
+                .append(String.format(Locale.ROOT, "  \"maxExponent\": %.3f,\n", MAX_EXPONENT))
+                .append("  \"fitCardsPerDeck\": ").append(fitCards).append(",\n")
+                .append("  \"steps\": [\n");
+        for (int i = 0; i < results.size(); i++) {
+            StepResult r = results.get(i);
+            json.append("    {\"decks\": ").append(r.step.decks())
+                    .append(", \"cardsPerDeck\": ").append(r.step.cardsPerDeck())
+                    .append(", \"seedMode\": ").append(jsonString(r.seedMode))
+                    .append(", \"seedMs\": ").append(jsonNumber(r.seedMs))
+                    .append(", \"firstRenderFromNavigationMs\": ").append(jsonNumber(r.firstRenderFromNavigationMs))
+                    .append(", \"scrollMs\": ").append(jsonNumber(r.scrollMs))
+                    .append(", \"scrollFrames\": ").append(jsonNumber(r.scrollFrames))
+                    .append(", \"scrollWorstFrameMs\": ").append(jsonNumber(r.scrollWorstFrameMs))
+                    .append(", \"scrollJankFrames\": ").append(jsonNumber(r.scrollJankFrames))
+                    .append(", \"searchClearMs\": ").append(jsonNumber(r.searchClearMs));
+            for (Metric metric : Metric.values()) {
+                json.append(", \"").append(metric.key).append("\": ").append(jsonNumber(metric.value.applyAsDouble(r)));
+            }
+            json.append(", \"error\": ").append(jsonString(r.error)).append('}');
+            json.append(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        json.append("  ],\n  \"growthExponents\": {");
+        for (Metric metric : Metric.values()) {
+            Double exponent = exponents.get(metric);
+            json.append(metric.ordinal() == 0 ? "" : ", ").append('"').append(metric.key).append("\": ")
+                    .append(exponent == null ? "null" : String.format(Locale.ROOT, "%.3f", exponent));
+        }
+        json.append("}\n}\n");
+
+        Path resultDir = Paths.get("test-output/benchmarks");
+        Files.createDirectories(resultDir);
+        Files.writeString(resultDir.resolve("DashboardScale_" + timestamp + ".json"), json.toString());
+    }
+
+    private static String jsonString(String value) {
+        if (value == null) {
+            return "null";
+        }
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", " ") + "\"";
+    }
+
+    private static String jsonNumber(double value) {
+        return Double.isNaN(value) ? "null" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String formatMs(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static double median(List<Double> samples) {
+        if (samples.isEmpty()) {
+            return Double.NaN;
+        }
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static double number(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    private static void assertMeasured(double value, String message) {
+        if (value < 0) {
+            throw new IllegalStateException(message + " within " + TIMEOUT_MS + " ms");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example;
+
+import com.relevantcodes.extentreports.ExtentReports;
+import com.relevantcodes.extentreports.ExtentTest;
+import com.relevantcodes.extentreports.LogStatus;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.*;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Outils partagés par MemoriaTests et DashboardScaleBenchmark : création du driver Chrome,
+ * captures d'écran, erreurs globales et sélecteurs des pages Memoria.
+ */
+final class MemoriaSupport {
+    static final String TIMESTAMP_PATTERN = "yyyyMMdd_HHmmss";
+
+    // Formulaires d'inscription et de connexion
+    static final By USERNAME_INPUT = By.cssSelector("input[name='username']");
+    static final By EMAIL_INPUT = By.cssSelector("input[name='email']");
+    static final By PASSWORD_INPUT = By.cssSelector("input[name='password']");
+    static final By SUBMIT_BUTTON = By.cssSelector("button[type='submit']");
+
+    // Dashboard et création de paquet
+    static final By SEARCH_INPUT = By.cssSelector(".search-bar input");
+    static final By CREATE_DECK_CARD = By.xpath(
+            "//div[contains(@class, 'create-card')]//h3[contains(text(), 'Créer un nouveau paquet')]");
+    static final By DECK_MODAL = By.className("deck-modal");
+    static final By DECK_NAME_INPUT = By.className("deck-name-input");
+    static final By CREATE_DECK_BUTTON = By.xpath("//button[contains(text(), 'Créer un nouveau paquet')]");
+
+    // Ajout de cartes
+    static final By ADD_CARD_TITLE = By.xpath("//h2[text()='Ajouter une carte']");
+    static final By QUESTION_INPUT = By.id("question");
+    static final By ANSWER_INPUT = By.id("answer");
+    static final By DIFFICULTY_SELECT = By.id("difficultyLevel");
+    static final By ADD_CARD_BUTTON = By.xpath("//button[text()='Ajouter la carte']");
+    static final By BACK_TO_DECKS_BUTTON = By.xpath("//button[text()='Retour aux decks']");
+
+    private MemoriaSupport() {
+    }
+
+    static ChromeDriver createChromeDriver() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--remote-allow-origins=*");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+
+        WebDriverManager.chromedriver().setup();
+        ChromeDriver driver = new ChromeDriver(options);
+        driver.manage().window().maximize();
+        return driver;
+    }
+
+    static By deckTitle(String deckName) {
+        return By.xpath("//h3[contains(@class, 'card-title') and contains(text(), '" + deckName + "')]");
+    }
+
+    static By deckHeading(String deckName) {
+        return By.xpath("//h3[contains(text(), '" + deckName + "')]");
+    }
+
+    static By addCardsButton(String deckName) {
+        return By.xpath(deckCardPath(deckName) +
+                "//button[contains(@class, 'button-secondary')][.//i[contains(@class, 'fa-plus')]]");
+    }
+
+    static By deleteDeckButton(String deckName) {
+        return By.xpath(deckCardPath(deckName) + "//button[contains(@class, 'delete-btn')]");
+    }
+
+    private static String deckCardPath(String deckName) {
+        return "//h3[contains(text(), '" + deckName + "')]/ancestor::div[contains(@class, 'deck-card')]";
+    }
+
+    static void captureScreenshot(WebDriver driver, ExtentTest test, String screenshotName) {
+        try {
+            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+            Path screenshotDir = Paths.get("test-output/screenshots");
+            Files.createDirectories(screenshotDir);
+
+            String uniqueFileName = screenshotName + "_" +
+                    LocalDateTime.now().format(DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN)) + ".png";
+            Path destinationPath = screenshotDir.resolve(uniqueFileName);
+
+            Files.copy(screenshot.toPath(), destinationPath, StandardCopyOption.REPLACE_EXISTING);
+            test.log(LogStatus.INFO, "Screenshot: " + test.addScreenCapture("screenshots/" + uniqueFileName));
+        } catch (Exception e) {
+            test.log(LogStatus.WARNING, "Screenshot capture error: " + e.getMessage());
+        }
+    }
+
+    static void handleGlobalException(ExtentReports extent, Exception e) {
+        ExtentTest errorTest = extent.startTest("Global Error");
+        errorTest.log(LogStatus.ERROR, "System error: " + e.getMessage());
+        extent.endTest(errorTest);
+    }
+}
@@ -3,22 +3,12 @@ package org.example;
 import com.relevantcodes.extentreports.ExtentReports;
 import com.relevantcodes.extentreports.ExtentTest;
 import com.relevantcodes.extentreports.LogStatus;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.UUID;
 
 public class MemoriaTests {
@@ -35,7 +25,7 @@ public class MemoriaTests {
             setupWebDriver();
             runAllTests();
         } catch (Exception e) {
-            handleGlobalException(e);
+            MemoriaSupport.handleGlobalException(extent, e);
         } finally {
             finalizeReport();
         }
@@ -43,22 +33,15 @@ public class MemoriaTests {
 
     private static void initializeReport() {
         String reportPath = "test-output/MemoriaTestReport_" +
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".html";
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern(MemoriaSupport.TIMESTAMP_PATTERN)) + ".html";
         extent = new ExtentReports(reportPath, true);
         extent.addSystemInfo("Test Environment", "Development");
         extent.addSystemInfo("Application", "Memoria");
     }
 
     private static void setupWebDriver() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--remote-allow-origins=*");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver(options);
+        driver = MemoriaSupport.createChromeDriver();
         wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        driver.manage().window().maximize();
     }
 
     private static String generateUsername() {
@@ -146,13 +129,13 @@ public class MemoriaTests {
             lastGeneratedPassword = "Password123456789@";
 
             WebElement usernameInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("input[name='username']")));
+                    MemoriaSupport.USERNAME_INPUT));
             WebElement emailInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("input[name='email']")));
+                    MemoriaSupport.EMAIL_INPUT));
             WebElement passwordInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("input[name='password']")));
+                    MemoriaSupport.PASSWORD_INPUT));
             WebElement registerButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("button[type='submit']")));
+                    MemoriaSupport.SUBMIT_BUTTON));
 
             usernameInput.sendKeys(username);
             emailInput.sendKeys(lastGeneratedEmail);
@@ -185,11 +168,11 @@ public class MemoriaTests {
             wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("form")));
 
             WebElement emailInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("input[name='email']")));
+                    MemoriaSupport.EMAIL_INPUT));
             WebElement passwordInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("input[name='password']")));
+                    MemoriaSupport.PASSWORD_INPUT));
             WebElement loginButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("button[type='submit']")));
+                    MemoriaSupport.SUBMIT_BUTTON));
 
             // Test de connexion avec champs valides
             emailInput.sendKeys(lastGeneratedEmail);
@@ -263,7 +246,7 @@ public class MemoriaTests {
             WebElement sidebar = wait.until(ExpectedConditions.presenceOfElementLocated(
                     By.className("sidebar")));
             WebElement searchBar = wait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.cssSelector(".search-bar input")));
+                    MemoriaSupport.SEARCH_INPUT));
 
             assertTrue(sidebar.isDisplayed() && searchBar.isDisplayed());
             dashboardTest.log(LogStatus.PASS, "Dashboard elements verified");
@@ -272,13 +255,13 @@ public class MemoriaTests {
             dashboardTest.log(LogStatus.INFO, "Starting deck creation test");
 
             WebElement createNewDeckCard = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//div[contains(@class, 'create-card')]//h3[contains(text(), 'Créer un nouveau paquet')]")));
+                    MemoriaSupport.CREATE_DECK_CARD));
             JavascriptExecutor executor = (JavascriptExecutor) driver;
             executor.executeScript("arguments[0].click();", createNewDeckCard);
             dashboardTest.log(LogStatus.INFO, "Clicked create new deck button");
 
             WebElement modal = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                    By.className("deck-modal")));
+                    MemoriaSupport.DECK_MODAL));
             assertTrue(modal.isDisplayed());
             dashboardTest.log(LogStatus.PASS, "Creation modal opened successfully");
             captureScreenshot(dashboardTest, "Create_Deck_Modal");
@@ -286,12 +269,12 @@ public class MemoriaTests {
             String deckName = "Test Deck " + UUID.randomUUID().toString().substring(0, 8);
 
             WebElement deckNameInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.className("deck-name-input")));
+                    MemoriaSupport.DECK_NAME_INPUT));
             deckNameInput.sendKeys(deckName);
             dashboardTest.log(LogStatus.INFO, "Entered deck name: " + deckName);
 
             WebElement createDeckBtn = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//button[contains(text(), 'Créer un nouveau paquet')]")));
+                    MemoriaSupport.CREATE_DECK_BUTTON));
             executor.executeScript("arguments[0].click();", createDeckBtn);
 
             wait.until(ExpectedConditions.invisibilityOf(modal));
@@ -300,28 +283,28 @@ public class MemoriaTests {
             Thread.sleep(2000); // Attente pour la création du paquet
 
             WebElement newDeck = wait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//h3[contains(@class, 'card-title') and contains(text(), '" + deckName + "')]")));
+                    MemoriaSupport.deckTitle(deckName)));
             assertTrue(newDeck.isDisplayed());
             dashboardTest.log(LogStatus.PASS, "New deck created and visible: " + deckName);
             captureScreenshot(dashboardTest, "New_Deck_Created");
 
             Thread.sleep(1000);
             WebElement addCardsButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//button[contains(@class, 'button-secondary')]//i[contains(@class, 'fa-plus')]/parent::button")));
+                    MemoriaSupport.addCardsButton(deckName)));
             executor.executeScript("arguments[0].click();", addCardsButton);
             dashboardTest.log(LogStatus.INFO, "Clicked Add Cards button");
 
             WebElement addCardTitle = wait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//h2[text()='Ajouter une carte']")));
+                    MemoriaSupport.ADD_CARD_TITLE));
             assertTrue(addCardTitle.isDisplayed());
             dashboardTest.log(LogStatus.PASS, "Navigated to Add Card page");
 
             WebElement questionInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.id("question")));
+                    MemoriaSupport.QUESTION_INPUT));
             WebElement answerInput = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.id("answer")));
+                    MemoriaSupport.ANSWER_INPUT));
             WebElement difficultySelect = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.id("difficultyLevel")));
+                    MemoriaSupport.DIFFICULTY_SELECT));
 
             String questionText = "Quest Test " + UUID.randomUUID().toString().substring(0, 8);
             String answerText = "Rép Test " + UUID.randomUUID().toString().substring(0, 8);
@@ -334,7 +317,7 @@ public class MemoriaTests {
             captureScreenshot(dashboardTest, "Flashcard_Form_Filled");
 
             WebElement addCardButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//button[text()='Ajouter la carte']")));
+                    MemoriaSupport.ADD_CARD_BUTTON));
             executor.executeScript("arguments[0].click();", addCardButton);
             dashboardTest.log(LogStatus.INFO, "Clicked add card button");
 
@@ -384,13 +367,13 @@ public class MemoriaTests {
             dashboardTest.log(LogStatus.PASS, "Flashcard created successfully");
 
             WebElement backButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//button[text()='Retour aux decks']")));
+                    MemoriaSupport.BACK_TO_DECKS_BUTTON));
             executor.executeScript("arguments[0].click();", backButton);
             dashboardTest.log(LogStatus.PASS, "Returned to dashboard");
 
             // Test de suppression du paquet
             WebElement deleteButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//h3[contains(text(), '" + deckName + "')]/ancestor::div[contains(@class, 'deck-card')]//button[contains(@class, 'delete-btn')]")));
+                    MemoriaSupport.deleteDeckButton(deckName)));
 
             dashboardTest.log(LogStatus.INFO, "Found delete button for deck: " + deckName);
             executor.executeScript("arguments[0].click();", deleteButton);
@@ -398,7 +381,7 @@ public class MemoriaTests {
 
             try {
                 wait.until(ExpectedConditions.invisibilityOfElementLocated(
-                        By.xpath("//h3[contains(text(), '" + deckName + "')]")));
+                        MemoriaSupport.deckHeading(deckName)));
                 dashboardTest.log(LogStatus.PASS, "Deck deleted successfully");
             } catch (Exception e) {
                 dashboardTest.log(LogStatus.FAIL, "Deck deletion failed");
@@ -443,20 +426,7 @@ public class MemoriaTests {
     }
 
     private static void captureScreenshot(ExtentTest test, String screenshotName) {
-        try {
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            Path screenshotDir = Paths.get("test-output/screenshots");
-            Files.createDirectories(screenshotDir);
-
-            String uniqueFileName = screenshotName + "_" +
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".png";
-            Path destinationPath = screenshotDir.resolve(uniqueFileName);
-
-            Files.copy(screenshot.toPath(), destinationPath, StandardCopyOption.REPLACE_EXISTING);
-            test.log(LogStatus.INFO, "Screenshot: " + test.addScreenCapture("screenshots/" + uniqueFileName));
-        } catch (IOException e) {
-            test.log(LogStatus.WARNING, "Screenshot capture error: " + e.getMessage());
-        }
+        MemoriaSupport.captureScreenshot(driver, test, screenshotName);
     }
 
     private static void handleTestException(ExtentTest test, String testName, Exception e) {
@@ -468,12 +438,6 @@ public class MemoriaTests {
         }
     }
 
-    private static void handleGlobalException(Exception e) {
-        ExtentTest errorTest = extent.startTest("Global Error");
-        errorTest.log(LogStatus.ERROR, "System error: " + e.getMessage());
-        extent.endTest(errorTest);
-    }
-
     private static void finalizeReport() {
         if (driver != null) {
             driver.quit();